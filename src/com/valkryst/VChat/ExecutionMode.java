@@ -0,0 +1,52 @@
+package com.valkryst.VChat;
+
+import lombok.NonNull;
+
+public enum ExecutionMode {
+    /**
+     * Each task runs on its own platform thread.
+     *
+     * Platform threads are non-daemon, so they keep the JVM alive until
+     * they finish.
+     */
+    PLATFORM,
+
+    /**
+     * Each task runs on its own virtual thread.
+     *
+     * Virtual threads are always daemon threads, so they do not keep the
+     * JVM alive. Callers must join the returned threads, or otherwise
+     * block, if the JVM should continue running until they finish.
+     */
+    VIRTUAL;
+
+    /**
+     * Retrieves the mode to use when none has been specified.
+     *
+     * @return
+     *          PLATFORM, so that existing callers keep non-daemon threads.
+     */
+    public static ExecutionMode getDefault() {
+        return PLATFORM;
+    }
+
+    /**
+     * Constructs a new, unstarted, thread to run a task in this mode.
+     *
+     * @param task
+     *          The task to run.
+     *
+     * @param name
+     *          The name of the thread.
+     *
+     * @return
+     *          The thread.
+     */
+    public Thread newThread(final @NonNull Runnable task, final @NonNull String name) {
+        if (this == VIRTUAL) {
+            return Thread.ofVirtual().name(name).unstarted(task);
+        }
+
+        return Thread.ofPlatform().name(name).unstarted(task);
+    }
+}
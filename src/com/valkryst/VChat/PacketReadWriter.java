@@ -1,10 +1,12 @@
 package com.valkryst.VChat;
 
-import org.apache.logging.log4j.LogManager;
+import lombok.Getter;
+import lombok.NonNull;
 
 import java.net.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-public class PacketReadWriter extends Thread {
+public class PacketReadWriter {
     /** The host address of the server to communicate with. */
     private final InetAddress serverHost;
     /** The port of the server to communicate with. */
@@ -20,8 +22,15 @@ public class PacketReadWriter extends Thread {
     /** The packet reader. */
     private final PacketReader reader;
 
+    /** The mode in which the reader, writer, and handlers are run. */
+    @Getter private final ExecutionMode executionMode;
+
+    /** Whether the reader and writer have been started. */
+    private final AtomicBoolean started = new AtomicBoolean(false);
+
     /**
-     * Constructs a new PacketReadWriter.
+     * Constructs a new PacketReadWriter, whose reader, writer, and handlers
+     * run in the given execution mode.
      *
      * @param serverHost
      *          The host address of the server to communicate with.
@@ -44,6 +53,37 @@ public class PacketReadWriter extends Thread {
      *          DatagramSocket.
      */
     public PacketReadWriter(final String serverHost, final int serverPort, final int clientPort) throws UnknownHostException, SocketException {
+        this(serverHost, serverPort, clientPort, ExecutionMode.getDefault());
+    }
+
+    /**
+     * Constructs a new PacketReadWriter, whose reader, writer, and handlers
+     * run in the given execution mode.
+     *
+     * @param serverHost
+     *          The host address of the server to communicate with.
+     *
+     * @param serverPort
+     *          The port of the server to communicate with.
+     *
+     * @param clientPort
+     *          The port to listen for packets, from the server, on.
+     *
+     * @param executionMode
+     *          The mode in which to run the reader, writer, and handlers.
+     *
+     * @throws IllegalArgumentException
+     *          If the host is empty.
+     *          If the port isn't within the range of 0-65535.
+     *
+     * @throws UnknownHostException
+     *          If the host is unknown.
+     *
+     * @throws SocketException
+     *          If there is an error getting/setting the SoTimeout of the
+     *          DatagramSocket.
+     */
+    public PacketReadWriter(final String serverHost, final int serverPort, final int clientPort, final @NonNull ExecutionMode executionMode) throws UnknownHostException, SocketException {
         if (serverHost != null && serverHost.isEmpty()) {
             throw new IllegalArgumentException("You must specify a server host.");
         }
@@ -59,6 +99,7 @@ public class PacketReadWriter extends Thread {
         this.serverHost = InetAddress.getByName(serverHost);
         this.serverPort = serverPort;
         this.clientPort = clientPort;
+        this.executionMode = executionMode;
 
         socket = new DatagramSocket(clientPort);
         socket.setSoTimeout(10_000);
@@ -67,19 +108,80 @@ public class PacketReadWriter extends Thread {
         writer = new PacketWriter(socket);
     }
 
-    @Override
-    public void run() {
-        reader.start();
-        writer.start();
+    /**
+     * Starts the reader and writer, on new threads of the execution mode,
+     * and closes the socket once both have shut down.
+     *
+     * In the VIRTUAL mode, all threads are daemon threads and will not
+     * keep the JVM alive. Join the returned thread to block until the
+     * reader and writer have shut down.
+     *
+     * Interrupting the returned thread shuts down the reader and writer.
+     *
+     * @return
+     *          The thread overseeing the reader and writer.
+     *
+     * @throws IllegalStateException
+     *          If the PacketReadWriter has already been started or closed.
+     */
+    public Thread start() {
+        if (! started.compareAndSet(false, true)) {
+            throw new IllegalStateException("The PacketReadWriter has already been started or closed.");
+        }
+
+        return startHandler(this::runReadWriter, "PacketReadWriter");
+    }
+
+    /**
+     * Starts a handler on a new thread of the execution mode.
+     *
+     * The handler is neither routed packets nor tracked, so it must
+     * dequeue its own packets and stop itself. In the VIRTUAL mode, the
+     * handler's thread is a daemon thread and will not keep the JVM alive.
+     *
+     * @param handler
+     *          The handler.
+     *
+     * @param name
+     *          The name of the handler's thread.
+     *
+     * @return
+     *          The handler's thread.
+     */
+    public Thread startHandler(final @NonNull Runnable handler, final @NonNull String name) {
+        final Thread thread = executionMode.newThread(handler, name);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Runs the reader and writer, then closes the socket once both have
+     * shut down.
+     */
+    private void runReadWriter() {
+        final Thread readerThread = startHandler(reader, "PacketReader");
+        final Thread writerThread = startHandler(writer, "PacketWriter");
 
-        try {
-            reader.join();
-            writer.join();
-        } catch (final InterruptedException e) {
-            LogManager.getLogger().error(e);
+        // The socket can only be closed once the reader and writer have
+        // stopped, otherwise they will continue to run against a closed
+        // socket.
+        boolean interrupted = false;
+
+        while (readerThread.isAlive() || writerThread.isAlive()) {
+            try {
+                readerThread.join();
+                writerThread.join();
+            } catch (final InterruptedException e) {
+                interrupted = true;
+                shutdown();
+            }
         }
 
         socket.close();
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
     }
 
     /**
@@ -136,4 +238,21 @@ public class PacketReadWriter extends Thread {
         reader.setRunning(false);
         writer.setRunning(false);
     }
+
+    /**
+     * Closes the socket of a PacketReadWriter which was never started.
+     *
+     * A started PacketReadWriter closes its socket once the reader and
+     * writer have shut down, so use shutdown() instead.
+     *
+     * @throws IllegalStateException
+     *          If the PacketReadWriter has already been started or closed.
+     */
+    public void close() {
+        if (! started.compareAndSet(false, true)) {
+            throw new IllegalStateException("The PacketReadWriter has already been started or closed.");
+        }
+
+        socket.close();
+    }
 }
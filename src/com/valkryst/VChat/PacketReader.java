@@ -13,12 +13,12 @@ import java.net.SocketTimeoutException;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 
-public class PacketReader extends Thread {
+public class PacketReader implements Runnable {
     /** The socket to read from. */
     private final DatagramSocket socket;
 
     /** Whether to continue running. */
-    @Getter @Setter private boolean running = true;
+    @Getter @Setter private volatile boolean running = true;
 
     /** The FIFO queue of packets received. */
     private final BlockingQueue<DatagramPacket> queue = new LinkedBlockingQueue<>(10_000);
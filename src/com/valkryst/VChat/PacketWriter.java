@@ -14,12 +14,12 @@ import java.net.SocketTimeoutException;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 
-public class PacketWriter extends Thread {
+public class PacketWriter implements Runnable {
     /** The socket to read from. */
     private final DatagramSocket socket;
 
     /** Whether to continue running. */
-    @Getter private boolean running = true;
+    @Getter private volatile boolean running = true;
 
     /** The FIFO queue of packets to send. */
     private final BlockingQueue<DatagramPacket> queue = new LinkedBlockingQueue<>(10_000);
@@ -0,0 +1,50 @@
+package com.valkryst.VChat;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+@RunWith(Parameterized.class)
+public class ExecutionModeTest {
+    @Parameterized.Parameters(name = "{0}")
+    public static ExecutionMode[] modes() {
+        return ExecutionMode.values();
+    }
+
+    @Parameterized.Parameter
+    public ExecutionMode mode;
+
+    @Test
+    public void testGetDefault() {
+        Assert.assertEquals(ExecutionMode.PLATFORM, ExecutionMode.getDefault());
+    }
+
+    @Test
+    public void testNewThread() throws InterruptedException {
+        final AtomicReference<String> ranOn = new AtomicReference<>();
+        final Thread thread = mode.newThread(() -> ranOn.set(Thread.currentThread().getName()), "Test");
+
+        Assert.assertEquals("Test", thread.getName());
+        Assert.assertEquals(Thread.State.NEW, thread.getState());
+        Assert.assertEquals(mode == ExecutionMode.VIRTUAL, thread.isVirtual());
+        Assert.assertEquals(mode == ExecutionMode.VIRTUAL, thread.isDaemon());
+
+        thread.start();
+        thread.join();
+
+        Assert.assertEquals("Test", ranOn.get());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNewThread_withNullTask() {
+        mode.newThread(null, "Test");
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNewThread_withNullName() {
+        mode.newThread(() -> {}, null);
+    }
+}
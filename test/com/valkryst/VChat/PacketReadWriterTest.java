@@ -0,0 +1,124 @@
+package com.valkryst.VChat;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@RunWith(Parameterized.class)
+public class PacketReadWriterTest {
+    @Parameterized.Parameters(name = "{0}")
+    public static ExecutionMode[] modes() {
+        return ExecutionMode.values();
+    }
+
+    @Parameterized.Parameter
+    public ExecutionMode mode;
+
+    @Test
+    public void testConstructor_withDefaultMode() throws UnknownHostException, SocketException {
+        final PacketReadWriter readWriter = new PacketReadWriter("localhost", 0, 0);
+        Assert.assertEquals(ExecutionMode.PLATFORM, readWriter.getExecutionMode());
+        readWriter.close();
+    }
+
+    @Test
+    public void testConstructor_withMode() throws UnknownHostException, SocketException {
+        final PacketReadWriter readWriter = new PacketReadWriter("localhost", 0, 0, mode);
+        Assert.assertEquals(mode, readWriter.getExecutionMode());
+        readWriter.close();
+    }
+
+    @Test
+    public void testStartHandler() throws UnknownHostException, SocketException, InterruptedException {
+        final PacketReadWriter readWriter = new PacketReadWriter("localhost", 0, 0, mode);
+        final AtomicBoolean ran = new AtomicBoolean(false);
+
+        final Thread thread = readWriter.startHandler(() -> ran.set(true), "Handler");
+        thread.join();
+        readWriter.close();
+
+        Assert.assertTrue(ran.get());
+        Assert.assertEquals("Handler", thread.getName());
+        Assert.assertEquals(mode == ExecutionMode.VIRTUAL, thread.isVirtual());
+    }
+
+    @Test
+    public void testStartHandler_withManyBlockingHandlers() throws UnknownHostException, SocketException, InterruptedException {
+        Assume.assumeTrue(mode == ExecutionMode.VIRTUAL);
+
+        final PacketReadWriter readWriter = new PacketReadWriter("localhost", 0, 0, mode);
+        final CountDownLatch allStarted = new CountDownLatch(10_000);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>(10_000);
+
+        for (int i = 0 ; i < 10_000 ; i++) {
+            threads.add(readWriter.startHandler(() -> {
+                allStarted.countDown();
+
+                try {
+                    release.await();
+                } catch (final InterruptedException ignored) {}
+            }, "Handler-" + i));
+        }
+
+        // Every handler must be blocked at the same time.
+        Assert.assertTrue(allStarted.await(30, TimeUnit.SECONDS));
+        release.countDown();
+
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        readWriter.close();
+    }
+
+    @Test
+    public void testStart_twice() throws UnknownHostException, SocketException, InterruptedException {
+        final PacketReadWriter readWriter = new PacketReadWriter("localhost", 0, 0, mode);
+        final Thread thread = readWriter.start();
+
+        try {
+            readWriter.start();
+            Assert.fail("Expected an IllegalStateException.");
+        } catch (final IllegalStateException ignored) {
+            // Expected.
+        } finally {
+            readWriter.shutdown();
+            thread.join();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testStart_afterClose() throws UnknownHostException, SocketException {
+        final PacketReadWriter readWriter = new PacketReadWriter("localhost", 0, 0, mode);
+        readWriter.close();
+        readWriter.start();
+    }
+
+    @Test
+    public void testStart_interrupted() throws UnknownHostException, SocketException, InterruptedException {
+        final PacketReadWriter readWriter = new PacketReadWriter("localhost", 0, 0, mode);
+        final Thread thread = readWriter.start();
+
+        thread.interrupt();
+
+        thread.join(30_000);
+        Assert.assertFalse(thread.isAlive());
+
+        // Virtual threads aren't listed, so this only checks platform threads.
+        for (final Thread other : Thread.getAllStackTraces().keySet()) {
+            Assert.assertNotEquals("PacketReader", other.getName());
+            Assert.assertNotEquals("PacketWriter", other.getName());
+        }
+    }
+}